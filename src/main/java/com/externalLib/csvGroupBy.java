@@ -0,0 +1,333 @@
+package com.externalLib;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * csvGroupBy library helps to count, sum and average columns per group, straight from raw CSV fields
+ * (no object is created for each row) <p>
+ * Example: <p>
+ * <pre>
+ * csvGroupBy SalaryByDept = new csvGroupBy(); <p>
+ *SalaryByDept.setGroupBy(new String[] { "DeptID" }); <p>
+ *SalaryByDept.addIntColumn("Age"); <p>
+ *SalaryByDept.addDoubleColumn("Salary");
+ * </pre>
+ * For a single file (set {@code isParallel} to aggregate partial groups on many threads, then merge them): <p>
+ * <pre>
+ * Collection&lt;csvGroupBy.Group&gt; groups = SalaryByDept.aggregate(StaffRead, "staff.txt", isHeaderSkipped, isParallel);
+ * </pre>
+ * For any other rows, like output of {@link csvHashJoin}: <p>
+ * <pre>
+ * try (Stream&lt;String[]&gt; rows = StaffDeptJoin.stream()) <p>
+ *{ groups = SalaryByDept.aggregate(StaffDeptJoin.getHeaders(), rows); }
+ * </pre>
+ *
+ * @author hung-tq
+ */
+public class csvGroupBy
+{
+    private String[] GROUP_BY = new String[0];
+    private final List<String> LONG_COLUMNS = new ArrayList<>();
+    private final List<Boolean> IS_INT_COLUMN = new ArrayList<>();
+    private final List<String> DOUBLE_COLUMNS = new ArrayList<>();
+
+    /**
+     * Method to set columns which rows are grouped by, from left to right. <p>
+     * Example: <pre> .setGroupBy(new String[] { "DeptID" }); </pre>
+     * @param GroupBy list of header names, empty for one group of all rows
+     */
+    public void setGroupBy(String[] GroupBy)
+    {
+        GROUP_BY = GroupBy;
+    }
+
+    /**
+     * Method to add an integer column to sum and average, its sum is kept in a {@code long} so it can not overflow. <p>
+     * Example: <pre> .addIntColumn("Age"); </pre>
+     * @param columnName Name of header
+     */
+    public void addIntColumn(String columnName)
+    {
+        LONG_COLUMNS.add(columnName);
+        IS_INT_COLUMN.add(true);
+    }
+
+    /**
+     * Method to add a long column to sum and average. <p>
+     * Example: <pre> .addLongColumn("PhoneNumber"); </pre>
+     * @param columnName Name of header
+     */
+    public void addLongColumn(String columnName)
+    {
+        LONG_COLUMNS.add(columnName);
+        IS_INT_COLUMN.add(false);
+    }
+
+    /**
+     * Method to add a double column to sum and average. <p>
+     * Example: <pre> .addDoubleColumn("Salary"); </pre>
+     * @param columnName Name of header
+     */
+    public void addDoubleColumn(String columnName)
+    {
+        DOUBLE_COLUMNS.add(columnName);
+    }
+
+    /**
+     * Method to group rows of a CSV file, reading it once without loading the whole file. <p>
+     * Rows are split like {@link csvLib#streamCsvRows(String, boolean)}. <p>
+     * Example: <pre> .aggregate(StaffRead, "staff.txt", true, false); </pre>
+     * @param reader csvLib which has seperator (and field order if there is no header line) of the file
+     * @param filePath Path of file
+     * @param isHeaderSkipped True if CSV file has no header line
+     * @param isParallel True to aggregate on many threads, each one keeps its own groups which are merged at the end
+     * @return list of groups, in no particular order, empty if the file is empty
+     * @throws IOException
+     * @throws IllegalStateException if {@code isHeaderSkipped} is true but field order of {@code reader} is not set
+     */
+    public Collection<Group> aggregate(csvLib reader, String filePath, boolean isHeaderSkipped, boolean isParallel) throws IOException
+    {
+        String[] headers = reader.readCsvHeaders(filePath, isHeaderSkipped);
+        if (headers == null)
+            return new ArrayList<>();
+
+        try (Stream<String[]> rows = reader.streamCsvRows(filePath, isHeaderSkipped))
+        {
+            return aggregate(headers, isParallel ? rows.parallel() : rows);
+        }
+    }
+
+    /**
+     * Method to group rows of raw fields. A parallel stream is aggregated into partial groups which are merged at the end. <p>
+     * Empty values are skipped, they are not counted in average. <p>
+     * Example: <pre> .aggregate(headers, rows); </pre>
+     * @param headers list of headers of {@code rows}, {@code null} if there is no row (like an empty file)
+     * @param rows stream of fields of each row
+     * @return list of groups, in no particular order
+     * @throws IllegalArgumentException if a column is not found in {@code headers}
+     * @throws NumberFormatException if a value can not be parsed to its column type
+     */
+    public Collection<Group> aggregate(String[] headers, Stream<String[]> rows)
+    {
+        if (headers == null)
+            return new ArrayList<>();
+
+        final List<String> longColumns = new ArrayList<>(LONG_COLUMNS);
+        final List<String> doubleColumns = new ArrayList<>(DOUBLE_COLUMNS);
+        final int[] keyIndexes = findColumnIndexes(headers, Arrays.asList(GROUP_BY));
+        final int[] longIndexes = findColumnIndexes(headers, longColumns);
+        final int[] doubleIndexes = findColumnIndexes(headers, doubleColumns);
+        final boolean[] isIntColumn = new boolean[IS_INT_COLUMN.size()];
+        for (int i = 0; i < isIntColumn.length; i++)
+            isIntColumn[i] = IS_INT_COLUMN.get(i);
+
+        Partial groups = rows.collect(
+                () -> new Partial(keyIndexes.length),
+                (partial, fields) -> accumulate(partial.findGroup(fields, keyIndexes, longColumns, doubleColumns),
+                        fields, longIndexes, isIntColumn, doubleIndexes),
+                Partial::merge);
+
+        return groups.groups.values();
+    }
+
+    private static void accumulate(Group group, String[] fields, int[] longIndexes, boolean[] isIntColumn, int[] doubleIndexes)
+    {
+        group.count++;
+        for (int i = 0; i < longIndexes.length; i++)
+        {
+            String value = fields[longIndexes[i]].trim();
+            if (value.isEmpty())
+                continue;
+
+            group.longSums[i] += isIntColumn[i] ? Integer.parseInt(value) : Long.parseLong(value);
+            group.longCounts[i]++;
+        }
+        for (int i = 0; i < doubleIndexes.length; i++)
+        {
+            String value = fields[doubleIndexes[i]].trim();
+            if (value.isEmpty())
+                continue;
+
+            group.doubleSums[i] += Double.parseDouble(value);
+            group.doubleCounts[i]++;
+        }
+    }
+
+    /**
+     * Groups of one thread. A single column key is the trimmed value itself, a key of many columns is looked up
+     * through a reused buffer, so a new key is only created for a new group.
+     */
+    private static class Partial
+    {
+        private final Map<Object, Group> groups = new HashMap<>();
+        private final String[] keyBuffer;
+        private final List<String> keyView;
+
+        private Partial(int keyLength)
+        {
+            keyBuffer = new String[keyLength];
+            keyView = Arrays.asList(keyBuffer);
+        }
+
+        private Group findGroup(String[] fields, int[] keyIndexes, List<String> longColumns, List<String> doubleColumns)
+        {
+            if (keyIndexes.length == 1)
+            {
+                String key = fields[keyIndexes[0]].trim();
+                Group group = groups.get(key);
+                if (group == null)
+                {
+                    group = new Group(Collections.singletonList(key), longColumns, doubleColumns);
+                    groups.put(key, group);
+                }
+                return group;
+            }
+
+            for (int i = 0; i < keyIndexes.length; i++)
+                keyBuffer[i] = fields[keyIndexes[i]].trim();
+
+            Group group = groups.get(keyView);
+            if (group == null)
+            {
+                List<String> key = Arrays.asList(keyBuffer.clone());
+                group = new Group(key, longColumns, doubleColumns);
+                groups.put(key, group);
+            }
+            return group;
+        }
+
+        private void merge(Partial partial)
+        {
+            for (Map.Entry<Object, Group> entry : partial.groups.entrySet())
+            {
+                Group other = entry.getValue();
+                Group group = groups.get(entry.getKey());
+                if (group == null)
+                {
+                    groups.put(entry.getKey(), other);
+                    continue;
+                }
+
+                group.count += other.count;
+                for (int i = 0; i < group.longSums.length; i++)
+                {
+                    group.longSums[i] += other.longSums[i];
+                    group.longCounts[i] += other.longCounts[i];
+                }
+                for (int i = 0; i < group.doubleSums.length; i++)
+                {
+                    group.doubleSums[i] += other.doubleSums[i];
+                    group.doubleCounts[i] += other.doubleCounts[i];
+                }
+            }
+        }
+    }
+
+    private static int[] findColumnIndexes(String[] headers, List<String> columnNames)
+    {
+        int[] indexes = new int[columnNames.size()];
+        for (int i = 0; i < indexes.length; i++)
+            indexes[i] = csvLib.findColumnIndex(headers, columnNames.get(i));
+        return indexes;
+    }
+
+    /**
+     * Result of one group: count of rows, sum and average of every added column. <p>
+     * Example: <pre> group.getKey().get(0) + ": " + group.getAverage("Salary") </pre>
+     */
+    public static class Group
+    {
+        private final List<String> key;
+        private final List<String> longColumns;
+        private final List<String> doubleColumns;
+        private long count;
+        private final long[] longSums;
+        private final long[] longCounts;
+        private final double[] doubleSums;
+        private final long[] doubleCounts;
+
+        private Group(List<String> key, List<String> longColumns, List<String> doubleColumns)
+        {
+            this.key = key;
+            this.longColumns = longColumns;
+            this.doubleColumns = doubleColumns;
+            longSums = new long[longColumns.size()];
+            longCounts = new long[longColumns.size()];
+            doubleSums = new double[doubleColumns.size()];
+            doubleCounts = new long[doubleColumns.size()];
+        }
+
+        /**
+         * @return values of group by columns, in the same order as {@code setGroupBy()}
+         */
+        public List<String> getKey()
+        {
+            return key;
+        }
+
+        /**
+         * @return number of rows in this group
+         */
+        public long getCount()
+        {
+            return count;
+        }
+
+        /**
+         * Method to get sum of an int or long column. <p>
+         * Example: <pre> .getLongSum("Age"); </pre>
+         * @param columnName Name of header
+         * @return sum of non-empty values
+         * @throws IllegalArgumentException if the column was not added as int or long column
+         */
+        public long getLongSum(String columnName)
+        {
+            return longSums[indexOf(longColumns, columnName)];
+        }
+
+        /**
+         * Method to get sum of a double column. <p>
+         * Example: <pre> .getDoubleSum("Salary"); </pre>
+         * @param columnName Name of header
+         * @return sum of non-empty values
+         * @throws IllegalArgumentException if the column was not added as double column
+         */
+        public double getDoubleSum(String columnName)
+        {
+            return doubleSums[indexOf(doubleColumns, columnName)];
+        }
+
+        /**
+         * Method to get average of an int, long or double column. <p>
+         * Example: <pre> .getAverage("Salary"); </pre>
+         * @param columnName Name of header
+         * @return average of non-empty values, {@code NaN} if there is none
+         * @throws IllegalArgumentException if the column was not added
+         */
+        public double getAverage(String columnName)
+        {
+            int i = longColumns.indexOf(columnName);
+            if (i >= 0)
+                return longCounts[i] == 0 ? Double.NaN : (double) longSums[i] / longCounts[i];
+
+            i = indexOf(doubleColumns, columnName);
+            return doubleCounts[i] == 0 ? Double.NaN : doubleSums[i] / doubleCounts[i];
+        }
+
+        private static int indexOf(List<String> columns, String columnName)
+        {
+            int i = columns.indexOf(columnName);
+            if (i < 0)
+                throw new IllegalArgumentException("Column not aggregated: " + columnName);
+            return i;
+        }
+    }
+}
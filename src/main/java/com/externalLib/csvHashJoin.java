@@ -0,0 +1,167 @@
+package com.externalLib;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * csvHashJoin library helps to join rows of two CSV files which have the same key, straight from raw CSV fields. <p>
+ * The smaller file is loaded into a hash table, then the bigger file is read row by row, so it is never loaded fully. <p>
+ * Example: <p>
+ * <pre>
+ * csvHashJoin StaffDeptJoin = new csvHashJoin(); <p>
+ *StaffDeptJoin.setLeft(StaffRead, "staff.txt", isHeaderSkipped, "DeptID"); <p>
+ *StaffDeptJoin.setRight(DeptRead, "department.txt", isHeaderSkipped, "DeptID");
+ * </pre>
+ * For reading joined rows (fields of left row, then fields of right row): <p>
+ * <pre>
+ * String[] headers = StaffDeptJoin.getHeaders(); <p>
+ *try (Stream&lt;String[]&gt; rows = StaffDeptJoin.stream()) { ... }
+ * </pre>
+ *
+ * @author hung-tq
+ */
+public class csvHashJoin
+{
+    private csvLib LEFT_READER;
+    private String LEFT_FILE_PATH;
+    private boolean LEFT_HEADER_SKIPPED;
+    private String LEFT_KEY;
+
+    private csvLib RIGHT_READER;
+    private String RIGHT_FILE_PATH;
+    private boolean RIGHT_HEADER_SKIPPED;
+    private String RIGHT_KEY;
+
+    /**
+     * Method to set left file of the join, its fields come first in joined rows. <p>
+     * Example: <pre> .setLeft(StaffRead, "staff.txt", true, "DeptID"); </pre>
+     * @param reader csvLib which has seperator (and field order if there is no header line) of the file
+     * @param filePath Path of file
+     * @param isHeaderSkipped True if CSV file has no header line
+     * @param keyColumn Name of header to join on
+     */
+    public void setLeft(csvLib reader, String filePath, boolean isHeaderSkipped, String keyColumn)
+    {
+        LEFT_READER = reader;
+        LEFT_FILE_PATH = filePath;
+        LEFT_HEADER_SKIPPED = isHeaderSkipped;
+        LEFT_KEY = keyColumn;
+    }
+
+    /**
+     * Method to set right file of the join, its fields come last in joined rows. <p>
+     * Example: <pre> .setRight(DeptRead, "department.txt", true, "DeptID"); </pre>
+     * @param reader csvLib which has seperator (and field order if there is no header line) of the file
+     * @param filePath Path of file
+     * @param isHeaderSkipped True if CSV file has no header line
+     * @param keyColumn Name of header to join on
+     */
+    public void setRight(csvLib reader, String filePath, boolean isHeaderSkipped, String keyColumn)
+    {
+        RIGHT_READER = reader;
+        RIGHT_FILE_PATH = filePath;
+        RIGHT_HEADER_SKIPPED = isHeaderSkipped;
+        RIGHT_KEY = keyColumn;
+    }
+
+    /**
+     * Method to get headers of joined rows, which are left headers then right headers. <p>
+     * If both files have a header with the same name, {@link csvGroupBy} uses the left one.
+     * @return list of headers, or {@code null} if a file is empty (then the join has no row)
+     * @throws IOException
+     */
+    public String[] getHeaders() throws IOException
+    {
+        String[] leftHeaders = LEFT_READER.readCsvHeaders(LEFT_FILE_PATH, LEFT_HEADER_SKIPPED);
+        String[] rightHeaders = RIGHT_READER.readCsvHeaders(RIGHT_FILE_PATH, RIGHT_HEADER_SKIPPED);
+        if (leftHeaders == null || rightHeaders == null)
+            return null;
+
+        return concat(leftHeaders, rightHeaders);
+    }
+
+    /**
+     * Method to inner join both files. Rows with empty key are never joined, and the join is empty if a file is empty. <p>
+     * Rows are split like {@link csvLib#streamCsvRows(String, boolean)}. <p>
+     * The smaller file is loaded when this method is called, the bigger file is read lazily,
+     * so the stream holds it open and must be closed after use. <p>
+     * Example: <pre> try (Stream&lt;String[]&gt; rows = .stream()) { ... } </pre>
+     * @return stream of joined rows, each one is fields of left row then fields of right row
+     * @throws IOException
+     * @throws IllegalArgumentException if a key column is not found in headers of its file
+     * @throws IllegalStateException if a file has no header line but field order of its reader is not set
+     */
+    public Stream<String[]> stream() throws IOException
+    {
+        String[] leftHeaders = LEFT_READER.readCsvHeaders(LEFT_FILE_PATH, LEFT_HEADER_SKIPPED);
+        String[] rightHeaders = RIGHT_READER.readCsvHeaders(RIGHT_FILE_PATH, RIGHT_HEADER_SKIPPED);
+        if (leftHeaders == null || rightHeaders == null)
+            return Stream.empty();
+
+        int leftKeyIndex = csvLib.findColumnIndex(leftHeaders, LEFT_KEY);
+        int rightKeyIndex = csvLib.findColumnIndex(rightHeaders, RIGHT_KEY);
+
+        final boolean isLeftBuilt = isLeftBuilt();
+        final Map<String, List<String[]>> table;
+        final int probeKeyIndex;
+        Stream<String[]> probeRows;
+        if (isLeftBuilt)
+        {
+            table = buildTable(LEFT_READER, LEFT_FILE_PATH, LEFT_HEADER_SKIPPED, leftKeyIndex);
+            probeKeyIndex = rightKeyIndex;
+            probeRows = RIGHT_READER.streamCsvRows(RIGHT_FILE_PATH, RIGHT_HEADER_SKIPPED);
+        }
+        else
+        {
+            table = buildTable(RIGHT_READER, RIGHT_FILE_PATH, RIGHT_HEADER_SKIPPED, rightKeyIndex);
+            probeKeyIndex = leftKeyIndex;
+            probeRows = LEFT_READER.streamCsvRows(LEFT_FILE_PATH, LEFT_HEADER_SKIPPED);
+        }
+
+        return probeRows.flatMap(probe -> {
+            List<String[]> matches = table.get(probe[probeKeyIndex].trim());
+            if (matches == null)
+                return null;
+
+            Stream<String[]> joined = matches.stream();
+            return isLeftBuilt ? joined.map(build -> concat(build, probe)) : joined.map(build -> concat(probe, build));
+        });
+    }
+
+    /**
+     * @return {@code true} if the left file is loaded into the hash table, which is when it is not bigger than the right file
+     * @throws IOException
+     */
+    boolean isLeftBuilt() throws IOException
+    {
+        return Files.size(Paths.get(LEFT_FILE_PATH)) <= Files.size(Paths.get(RIGHT_FILE_PATH));
+    }
+
+    private static Map<String, List<String[]>> buildTable(csvLib reader, String filePath, boolean isHeaderSkipped, int keyIndex) throws IOException
+    {
+        Map<String, List<String[]>> table = new HashMap<>();
+        try (Stream<String[]> rows = reader.streamCsvRows(filePath, isHeaderSkipped))
+        {
+            rows.forEach(fields -> {
+                String key = fields[keyIndex].trim();
+                if (!key.isEmpty())
+                    table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(fields);
+            });
+        }
+        return table;
+    }
+
+    private static String[] concat(String[] left, String[] right)
+    {
+        String[] joined = new String[left.length + right.length];
+        System.arraycopy(left, 0, joined, 0, left.length);
+        System.arraycopy(right, 0, joined, left.length, right.length);
+        return joined;
+    }
+}
@@ -6,6 +6,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
@@ -14,7 +15,10 @@ import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * csvLib library helps to read data from text file, handle Exception after call <p>
@@ -33,6 +37,10 @@ import java.util.List;
  * String csv = StaffSave.toCsv(StaffArrayList); <p>
  *StaffSave.writeCsvToFile(csv, "staff_Backup.txt");
  * </pre>
+ * For reading raw fields without creating objects (see {@link csvGroupBy} and {@link csvHashJoin}): <p>
+ * <pre>
+ * try (Stream&lt;String[]&gt; rows = StaffRead.streamCsvRows("staff.txt", isHeaderSkipped)) { ... }
+ * </pre>
  * 
  * @author hung-tq
  */
@@ -199,6 +207,126 @@ public class csvLib
         return resultList;
     }
 
+    /**
+     * Method to get headers of CSV file, which are {@code FIELD_ORDER} if the file has no header line. <p>
+     * Headers are split like {@code readCsvFile()}, so empty headers at the end of the line are ignored. <p>
+     * Example: <pre> .readCsvHeaders("staff.txt", false); </pre>
+     * @param filePath Path of file
+     * @param isHeaderSkipped True if CSV file has no header line
+     * @return list of trimmed headers, or {@code null} if the file is empty
+     * @throws IOException
+     * @throws IllegalStateException if {@code isHeaderSkipped} is true but {@code setFieldOrder()} was not called
+     */
+    public String[] readCsvHeaders(String filePath, boolean isHeaderSkipped) throws IOException
+    {
+        if (isHeaderSkipped)
+            return getFieldOrder();
+
+        try (BufferedReader br = new BufferedReader(new FileReader(Paths.get(filePath).toFile())))
+        {
+            String line = br.readLine();
+            return line != null ? trimFields(line.split(CSV_SEPARATOR)) : null;
+        }
+    }
+
+    /**
+     * Method to stream raw fields of every CSV row, without creating any object. <p>
+     * Rows are read lazily and split with the same rule as headers of {@code readCsvHeaders()}:
+     * <ul>
+     * <li>a row with fewer fields than headers is skipped,</li>
+     * <li>empty fields after the last header are ignored, so {@code 4,B,35,300,} is kept for 4 headers,</li>
+     * <li>a row with non-empty fields after the last header is skipped.</li>
+     * </ul>
+     * So every row kept by {@code readCsvFile()} is kept, and rows ending with empty values
+     * (like {@code 2,A,40,} for 4 headers), which {@code readCsvFile()} skips, are kept too. <p>
+     * The stream holds the file open, so it must be closed after use. <p>
+     * Example: <pre> try (Stream&lt;String[]&gt; rows = .streamCsvRows("staff.txt", true)) { ... } </pre>
+     * @param filePath Path of file
+     * @param isHeaderSkipped True if CSV file has no header line
+     * @return stream of untrimmed fields of each row, each one has as many fields as headers
+     * @throws IOException
+     * @throws IllegalStateException if {@code isHeaderSkipped} is true but {@code setFieldOrder()} was not called
+     */
+    public Stream<String[]> streamCsvRows(String filePath, boolean isHeaderSkipped) throws IOException
+    {
+        String[] fieldOrder = isHeaderSkipped ? getFieldOrder() : null;
+        BufferedReader br = new BufferedReader(new FileReader(Paths.get(filePath).toFile()));
+        try
+        {
+            String[] headers = fieldOrder;
+            if (!isHeaderSkipped)
+            {
+                String line = br.readLine();
+                headers = line != null ? line.split(CSV_SEPARATOR) : new String[0];
+            }
+
+            final int fieldCount = headers.length;
+            final String separator = CSV_SEPARATOR;
+            return br.lines()
+                    .map(line -> fitFields(line.split(separator, -1), fieldCount))
+                    .filter(Objects::nonNull)
+                    .onClose(() -> {
+                        try
+                        {
+                            br.close();
+                        }
+                        catch (IOException e)
+                        {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        }
+        catch (IOException | RuntimeException e)
+        {
+            br.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Method to find position of a column in headers. <p>
+     * Example: <pre> .findColumnIndex(headers, "StaffID"); </pre>
+     * @param headers list of headers
+     * @param columnName Name of column
+     * @return position of the first header matching {@code columnName}
+     * @throws IllegalArgumentException if no header matches {@code columnName}
+     */
+    public static int findColumnIndex(String[] headers, String columnName)
+    {
+        for (int i = 0; i < headers.length; i++)
+            if (headers[i].trim().equals(columnName))
+                return i;
+
+        throw new IllegalArgumentException("Column not found: " + columnName);
+    }
+
+    private String[] getFieldOrder()
+    {
+        if (FIELD_ORDER == null)
+            throw new IllegalStateException("Field order is not set, call setFieldOrder() for CSV file without header line");
+        return FIELD_ORDER;
+    }
+
+    private static String[] fitFields(String[] fields, int fieldCount)
+    {
+        if (fields.length == fieldCount)
+            return fields;
+        if (fields.length < fieldCount)
+            return null;
+
+        for (int i = fieldCount; i < fields.length; i++)
+            if (!fields[i].isEmpty())
+                return null;
+        return Arrays.copyOf(fields, fieldCount);
+    }
+
+    private static String[] trimFields(String[] fields)
+    {
+        for (int i = 0; i < fields.length; i++)
+            fields[i] = fields[i].trim();
+        return fields;
+    }
+
     /**
      * Method to create object from CSV fields. <p>
      * Example: <pre> .createObjectFromCsv(fields, headers, Staff.class); </pre>
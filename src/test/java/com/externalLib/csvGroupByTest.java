@@ -0,0 +1,139 @@
+package com.externalLib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class csvGroupByTest
+{
+    @TempDir
+    Path tempDir;
+
+    private String writeFile(String name, String content) throws IOException
+    {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file.toString();
+    }
+
+    private static csvGroupBy newGroupBy(String... groupBy)
+    {
+        csvGroupBy result = new csvGroupBy();
+        result.setGroupBy(groupBy);
+        result.addIntColumn("Age");
+        result.addLongColumn("Phone");
+        result.addDoubleColumn("Salary");
+        return result;
+    }
+
+    private static Map<String, csvGroupBy.Group> byKey(Collection<csvGroupBy.Group> groups)
+    {
+        Map<String, csvGroupBy.Group> result = new TreeMap<>();
+        for (csvGroupBy.Group group : groups)
+            result.put(String.join("|", group.getKey()), group);
+        return result;
+    }
+
+    @Test
+    public void aggregateCountsSumsAndAverages() throws IOException
+    {
+        String filePath = writeFile("staff.txt",
+                "ID,Dept,Age,Phone,Salary\n1, D1 ,30,9000000000,100.5\n2,D1,40,,200\n3,D2,25,1,\n4,D2,,2,10,\n");
+
+        Map<String, csvGroupBy.Group> groups = byKey(newGroupBy("Dept").aggregate(new csvLib(), filePath, false, false));
+
+        assertEquals(List.of("D1", "D2"), List.copyOf(groups.keySet()));
+        csvGroupBy.Group d1 = groups.get("D1");
+        assertEquals(List.of("D1"), d1.getKey());
+        assertEquals(2, d1.getCount());
+        assertEquals(70, d1.getLongSum("Age"));
+        assertEquals(9000000000L, d1.getLongSum("Phone"));
+        assertEquals(9000000000.0, d1.getAverage("Phone"));
+        assertEquals(300.5, d1.getDoubleSum("Salary"));
+        assertEquals(150.25, d1.getAverage("Salary"));
+
+        csvGroupBy.Group d2 = groups.get("D2");
+        assertEquals(2, d2.getCount());
+        assertEquals(25.0, d2.getAverage("Age"));
+        assertEquals(10.0, d2.getAverage("Salary"));
+    }
+
+    @Test
+    public void aggregateByManyColumns() throws IOException
+    {
+        String filePath = writeFile("staff.txt",
+                "ID,Dept,Team,Age,Phone,Salary\n1,D1,T1,30,1,1\n2,D1,T2,40,1,1\n3,D1,T1,50,1,1\n");
+
+        Map<String, csvGroupBy.Group> groups = byKey(newGroupBy("Dept", "Team").aggregate(new csvLib(), filePath, false, false));
+
+        assertEquals(List.of("D1|T1", "D1|T2"), List.copyOf(groups.keySet()));
+        assertEquals(List.of("D1", "T1"), groups.get("D1|T1").getKey());
+        assertEquals(2, groups.get("D1|T1").getCount());
+        assertEquals(40.0, groups.get("D1|T1").getAverage("Age"));
+    }
+
+    @Test
+    public void parallelAggregateMatchesSequential() throws IOException
+    {
+        StringBuilder csv = new StringBuilder("ID,Dept,Team,Age,Phone,Salary\n");
+        for (int i = 0; i < 100000; i++)
+            csv.append(i).append(",D").append(i % 7).append(",T").append(i % 3).append(',')
+                    .append(i % 60).append(',').append(i).append(',').append(i % 1000).append(".25\n");
+        String filePath = writeFile("staff.txt", csv.toString());
+
+        for (String[] groupBy : new String[][] { { "Dept" }, { "Dept", "Team" } })
+        {
+            Map<String, csvGroupBy.Group> sequential = byKey(newGroupBy(groupBy).aggregate(new csvLib(), filePath, false, false));
+            Map<String, csvGroupBy.Group> parallel = byKey(newGroupBy(groupBy).aggregate(new csvLib(), filePath, false, true));
+
+            assertEquals(sequential.keySet(), parallel.keySet());
+            long count = 0;
+            for (String key : sequential.keySet())
+            {
+                csvGroupBy.Group expected = sequential.get(key);
+                csvGroupBy.Group actual = parallel.get(key);
+                assertEquals(expected.getCount(), actual.getCount());
+                assertEquals(expected.getLongSum("Age"), actual.getLongSum("Age"));
+                assertEquals(expected.getLongSum("Phone"), actual.getLongSum("Phone"));
+                assertEquals(expected.getDoubleSum("Salary"), actual.getDoubleSum("Salary"), 1e-6);
+                count += actual.getCount();
+            }
+            assertEquals(100000, count);
+        }
+    }
+
+    @Test
+    public void emptyFileHasNoGroup() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "");
+
+        assertTrue(newGroupBy("Dept").aggregate(new csvLib(), filePath, false, false).isEmpty());
+    }
+
+    @Test
+    public void headerSkippedWithoutFieldOrderFails() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "1,D1,30,1,1\n");
+
+        assertThrows(IllegalStateException.class, () -> newGroupBy("Dept").aggregate(new csvLib(), filePath, true, false));
+    }
+
+    @Test
+    public void unknownColumnFails() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "ID,Dept\n1,D1\n");
+
+        assertThrows(IllegalArgumentException.class, () -> newGroupBy("Dept").aggregate(new csvLib(), filePath, false, false));
+    }
+}
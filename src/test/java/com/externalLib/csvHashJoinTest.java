@@ -0,0 +1,127 @@
+package com.externalLib;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class csvHashJoinTest
+{
+    @TempDir
+    Path tempDir;
+
+    private String writeFile(String name, String content) throws IOException
+    {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file.toString();
+    }
+
+    private static csvHashJoin newJoin(String staffPath, String deptPath)
+    {
+        csvLib staffRead = new csvLib();
+        csvLib deptRead = new csvLib();
+        deptRead.setCsvSeperator(":");
+
+        csvHashJoin join = new csvHashJoin();
+        join.setLeft(staffRead, staffPath, false, "DeptID");
+        join.setRight(deptRead, deptPath, false, "DeptID");
+        return join;
+    }
+
+    private static List<String> readRows(csvHashJoin join) throws IOException
+    {
+        try (Stream<String[]> rows = join.stream())
+        {
+            return rows.map(fields -> String.join("|", fields)).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void joinBuildsOnSmallerFileAndKeepsLeftThenRight() throws IOException
+    {
+        String staffPath = writeFile("staff.txt", "StaffID,DeptID\n1,D1\n2,D2\n3,D1\n4,D9\n5,\n");
+        String smallDeptPath = writeFile("dept_small.txt", "DeptID:Name\nD1:Sales\n");
+        String bigDeptPath = writeFile("dept_big.txt",
+                "DeptID:Name\nD1:Sales\nD1:Sales Backup\nD2:IT\nD3:HR\n:Nobody\nD4:Finance and Accounting Department\n");
+
+        csvHashJoin rightBuilt = newJoin(staffPath, smallDeptPath);
+        assertFalse(rightBuilt.isLeftBuilt());
+        assertArrayEquals(new String[] { "StaffID", "DeptID", "DeptID", "Name" }, rightBuilt.getHeaders());
+        assertEquals(List.of("1|D1|D1|Sales", "3|D1|D1|Sales"), readRows(rightBuilt));
+
+        csvHashJoin leftBuilt = newJoin(staffPath, bigDeptPath);
+        assertTrue(leftBuilt.isLeftBuilt());
+        assertArrayEquals(new String[] { "StaffID", "DeptID", "DeptID", "Name" }, leftBuilt.getHeaders());
+        assertEquals(List.of("1|D1|D1|Sales", "1|D1|D1|Sales Backup", "2|D2|D2|IT", "3|D1|D1|Sales", "3|D1|D1|Sales Backup"),
+                readRows(leftBuilt));
+    }
+
+    @Test
+    public void joinKeepsEmptyAndTrailingFields() throws IOException
+    {
+        String staffPath = writeFile("staff.txt", "StaffID,DeptID,Salary\n1,D1,\n2,D1,300,\n");
+        String deptPath = writeFile("dept.txt", "DeptID:Name:\nD1::\n");
+
+        assertEquals(List.of("1|D1||D1|", "2|D1|300|D1|"), readRows(newJoin(staffPath, deptPath)));
+    }
+
+    @Test
+    public void emptyBuildSideHasNoRow() throws IOException
+    {
+        String staffPath = writeFile("staff.txt", "StaffID,DeptID\n1,D1\n");
+        String headerOnlyPath = writeFile("dept_header.txt", "DeptID:Name\n");
+        String emptyPath = writeFile("dept_empty.txt", "");
+
+        assertEquals(List.of(), readRows(newJoin(staffPath, headerOnlyPath)));
+        assertEquals(List.of(), readRows(newJoin(staffPath, emptyPath)));
+        assertNull(newJoin(staffPath, emptyPath).getHeaders());
+    }
+
+    @Test
+    public void joinedRowsCanBeGrouped() throws IOException
+    {
+        String staffPath = writeFile("staff.txt", "StaffID,DeptID,Salary\n1,D1,100\n2,D2,50\n3,D1,200\n");
+        String deptPath = writeFile("dept.txt", "DeptID:Name\nD1:Sales\nD2:IT\n");
+        csvHashJoin join = newJoin(staffPath, deptPath);
+
+        csvGroupBy groupBy = new csvGroupBy();
+        groupBy.setGroupBy(new String[] { "Name" });
+        groupBy.addDoubleColumn("Salary");
+        Collection<csvGroupBy.Group> groups;
+        try (Stream<String[]> rows = join.stream())
+        {
+            groups = groupBy.aggregate(join.getHeaders(), rows);
+        }
+
+        assertEquals(2, groups.size());
+        for (csvGroupBy.Group group : groups)
+            assertEquals(group.getKey().get(0).equals("Sales") ? 150.0 : 50.0, group.getAverage("Salary"));
+    }
+
+    @Test
+    public void emptyJoinIsNotGrouped() throws IOException
+    {
+        String staffPath = writeFile("staff.txt", "StaffID,DeptID,Salary\n1,D1,100\n");
+        csvHashJoin join = newJoin(staffPath, writeFile("dept.txt", ""));
+
+        csvGroupBy groupBy = new csvGroupBy();
+        groupBy.setGroupBy(new String[] { "Name" });
+        try (Stream<String[]> rows = join.stream())
+        {
+            assertTrue(groupBy.aggregate(join.getHeaders(), rows).isEmpty());
+        }
+    }
+}
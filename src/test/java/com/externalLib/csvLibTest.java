@@ -0,0 +1,84 @@
+package com.externalLib;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class csvLibTest
+{
+    @TempDir
+    Path tempDir;
+
+    private String writeFile(String name, String content) throws IOException
+    {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file.toString();
+    }
+
+    private static List<String> readRows(csvLib reader, String filePath, boolean isHeaderSkipped) throws IOException
+    {
+        try (Stream<String[]> rows = reader.streamCsvRows(filePath, isHeaderSkipped))
+        {
+            return rows.map(fields -> String.join("|", fields)).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void streamCsvRowsKeepsTrailingEmptyFields() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "ID,Name,Age,Salary\n1,A,30,100\n2,A,40,\n3,B,,\n4,B,35,300,\n5,C,20\n6,C,20,1,2\n");
+
+        assertEquals(List.of("1|A|30|100", "2|A|40|", "3|B||", "4|B|35|300"), readRows(new csvLib(), filePath, false));
+    }
+
+    @Test
+    public void streamCsvRowsKeepsEveryRowOfReadCsvFile() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "ID,Name,Age,Salary,\n1,A,30,100\n2,A,40,\n4,B,35,300,\n5,B,35,300,,\n");
+
+        assertArrayEquals(new String[] { "ID", "Name", "Age", "Salary" }, new csvLib().readCsvHeaders(filePath, false));
+        assertEquals(List.of("1|A|30|100", "2|A|40|", "4|B|35|300", "5|B|35|300"), readRows(new csvLib(), filePath, false));
+    }
+
+    @Test
+    public void streamCsvRowsUsesFieldOrderWhenHeaderSkipped() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "1:A\n2:B:\n3\n");
+        csvLib reader = new csvLib();
+        reader.setCsvSeperator(":");
+        reader.setFieldOrder(new String[] { "ID", "Name" });
+
+        assertEquals(List.of("1|A", "2|B"), readRows(reader, filePath, true));
+    }
+
+    @Test
+    public void headerSkippedWithoutFieldOrderFails() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "1,A\n");
+        csvLib reader = new csvLib();
+
+        assertThrows(IllegalStateException.class, () -> reader.readCsvHeaders(filePath, true));
+        assertThrows(IllegalStateException.class, () -> reader.streamCsvRows(filePath, true));
+    }
+
+    @Test
+    public void emptyFileHasNoHeaderAndNoRow() throws IOException
+    {
+        String filePath = writeFile("staff.txt", "");
+
+        assertNull(new csvLib().readCsvHeaders(filePath, false));
+        assertEquals(List.of(), readRows(new csvLib(), filePath, false));
+    }
+}